@@ -13,8 +13,9 @@ public class AlertService {
         // create and send a formal notification for urgent alerts.
         System.out.println("--- Running Urgent Notification Scenario ---");
 
-        // We choose the factory for urgent notifications.
-        NotificationFactory urgentFactory = new UrgentNotificationFactory();
+        // We choose the factory for urgent notifications. Families are looked up
+        // by name, so the client never refers to a concrete factory class.
+        NotificationFactory urgentFactory = NotificationFactories.forFamily("URGENT");
 
         // The factory creates a compatible notification and template.
         Notification urgentSms = urgentFactory.createNotification("SMS");
@@ -35,7 +36,7 @@ public class AlertService {
         System.out.println("--- Running Marketing Notification Scenario ---");
 
         // Now, we switch to the marketing factory.
-        NotificationFactory marketingFactory = new MarketingNotificationFactory();
+        NotificationFactory marketingFactory = NotificationFactories.forFamily("MARKETING");
 
         // The factory creates a different family of related objects.
         Notification marketingEmail = marketingFactory.createNotification("EMAIL");
@@ -47,6 +48,13 @@ public class AlertService {
             marketingEmail.send("Our summer sale just started! Get 50% off.", casualTemplate);
         }
 
+        // Push is not built into the marketing factory; it is added by a plugin
+        // channel registered in META-INF/services/NotificationChannelProvider.
+        Notification marketingPush = marketingFactory.createNotification("PUSH");
+        if (marketingPush != null) {
+            marketingPush.send("Flash sale ends tonight!", casualTemplate);
+        }
+
         // Example of an unsupported combination
         // Demonstrates that the marketing factory does not support SMS notifications.
         Notification marketingSms = marketingFactory.createNotification("SMS");
@@ -0,0 +1,16 @@
+/**
+ * Registers the marketing family ({@link MarketingNotificationFactory}) under
+ * the name "MARKETING".
+ */
+public class MarketingNotificationFactoryProvider implements NotificationFactoryProvider {
+
+    @Override
+    public String family() {
+        return "MARKETING";
+    }
+
+    @Override
+    public NotificationFactory create() {
+        return new MarketingNotificationFactory();
+    }
+}
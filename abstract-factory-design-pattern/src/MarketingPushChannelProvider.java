@@ -0,0 +1,47 @@
+/**
+ * Example plugin channel: adds push notifications to the marketing family
+ * through {@code META-INF/services/NotificationChannelProvider}, without
+ * touching {@link MarketingNotificationFactory}.
+ */
+public class MarketingPushChannelProvider implements NotificationChannelProvider {
+
+    @Override
+    public String family() {
+        return "MARKETING";
+    }
+
+    @Override
+    public String channel() {
+        return "PUSH";
+    }
+
+    @Override
+    public Notification create() {
+        return new PushNotification();
+    }
+}
+
+/**
+ * A concrete implementation of the {@link Notification} interface for sending
+ * push notifications to mobile devices. The formatted text is run through a
+ * {@link PayloadEncoder} first, which enforces the push payload size limit.
+ * A payload over {@link PayloadEncoder#PUSH_PAYLOAD_LIMIT} is rejected: it is
+ * logged and not sent, since the push service would refuse it anyway.
+ */
+class PushNotification implements Notification {
+    @Override
+    public void send(String message, NotificationTemplate template) {
+        String content = template.format("Push", message);
+        EncodedPayload payload;
+        try {
+            payload = PayloadEncoder.forCurrentThread().encode("Push", content);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Push notification rejected: " + e.getMessage());
+            return;
+        }
+
+        System.out.println("Sending Push Notification (" + payload.getSize() + " "
+                + payload.getEncoding().getSizeUnit() + ")...");
+        System.out.println(content);
+    }
+}
@@ -26,12 +26,21 @@ class EmailNotification implements Notification {
 
 /**
  * A concrete implementation of the {@link Notification} interface for sending
- * SMS text messages.
+ * SMS text messages. The formatted text is run through a {@link PayloadEncoder}
+ * first, so the encoding and number of segments (and therefore the cost of the
+ * message) are known before it is handed to the gateway.
  */
 class SMSNotification implements Notification {
     @Override
     public void send(String message, NotificationTemplate template) {
-        System.out.println("Sending SMS...");
-        System.out.println(template.format("SMS", message));
+        String content = template.format("SMS", message);
+        // The factories create a new notification per request, so the encoder
+        // (and its direct buffer) is shared per thread rather than per instance.
+        EncodedPayload payload = PayloadEncoder.forCurrentThread().encode("SMS", content);
+
+        System.out.println("Sending SMS (" + payload.getEncoding() + ", "
+                + payload.getSegmentCount() + " segment(s), "
+                + payload.getSize() + " " + payload.getEncoding().getSizeUnit() + ")...");
+        System.out.println(content);
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+/**
+ * Service Provider Interface for adding a notification channel to an existing
+ * family without editing that family's factory.
+ *
+ * A provider is a public class with a public no-arg constructor listed in
+ * {@code META-INF/services/NotificationChannelProvider}. A factory consults
+ * these providers only when asked for a channel it does not support itself.
+ */
+public interface NotificationChannelProvider {
+
+    /**
+     * Returns the family this channel belongs to (e.g., "MARKETING").
+     *
+     * @return The family name, compared case-insensitively.
+     */
+    String family();
+
+    /**
+     * Returns the channel name this provider handles (e.g., "PUSH").
+     *
+     * @return The channel name, compared case-insensitively.
+     */
+    String channel();
+
+    /**
+     * Creates a new notification for this channel.
+     *
+     * @return A {@link Notification} object.
+     */
+    Notification create();
+}
@@ -1,3 +1,11 @@
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * This interface is the core of the Abstract Factory pattern. It declares a set
  * of methods for creating abstract products (in this case, {@link Notification}
@@ -24,14 +32,17 @@ interface NotificationFactory {
  * It pairs notifications (like Email and SMS) with a {@link FormalTemplate}.
  */
 class UrgentNotificationFactory implements NotificationFactory {
+    // Channels supported by this family. Lambdas defer loading each
+    // notification class until that channel is actually requested.
+    private static final Map<String, Supplier<Notification>> CHANNELS = Map.of(
+            "EMAIL", () -> new EmailNotification(),
+            "SMS", () -> new SMSNotification()
+    );
+
     @Override
     public Notification createNotification(String type) {
-        if (type.equalsIgnoreCase("EMAIL")) {
-            return new EmailNotification();
-        } else if (type.equalsIgnoreCase("SMS")) {
-            return new SMSNotification();
-        }
-        return null;
+        Supplier<Notification> channel = CHANNELS.get(type.toUpperCase(Locale.ROOT));
+        return channel != null ? channel.get() : NotificationFactories.createPluginChannel("URGENT", type);
     }
 
     @Override
@@ -45,18 +56,109 @@ class UrgentNotificationFactory implements NotificationFactory {
  * It pairs notifications (like Email) with a {@link CasualTemplate}.
  */
 class MarketingNotificationFactory implements NotificationFactory {
+    // Marketing might only support Email, for example.
+    private static final Map<String, Supplier<Notification>> CHANNELS = Map.of(
+            "EMAIL", () -> new EmailNotification()
+    );
+
     @Override
     public Notification createNotification(String type) {
-        // Marketing might only support Email, for example.
-        if (type.equalsIgnoreCase("EMAIL")) {
-            return new EmailNotification();
-        }
         // SMS might not be available for marketing, returning null.
-        return null;
+        Supplier<Notification> channel = CHANNELS.get(type.toUpperCase(Locale.ROOT));
+        return channel != null ? channel.get() : NotificationFactories.createPluginChannel("MARKETING", type);
     }
 
     @Override
     public NotificationTemplate createTemplate() {
         return new CasualTemplate();
     }
-}
\ No newline at end of file
+}
+
+/**
+ * Looks up notification families and plugin channels registered through
+ * {@link ServiceLoader}.
+ *
+ * Families come from {@link NotificationFactoryProvider} entries in
+ * {@code META-INF/services/NotificationFactoryProvider}; extra channels for a
+ * family come from {@link NotificationChannelProvider} entries in
+ * {@code META-INF/services/NotificationChannelProvider}. Discovery only starts
+ * on the first lookup and stops as soon as a match is found, so providers that
+ * are never asked for are never loaded.
+ */
+class NotificationFactories {
+    private static final Discovery<NotificationFactoryProvider> FAMILIES =
+            new Discovery<>(NotificationFactoryProvider.class, provider -> provider.family());
+    private static final Discovery<NotificationChannelProvider> CHANNELS =
+            new Discovery<>(NotificationChannelProvider.class, provider -> provider.family() + "/" + provider.channel());
+
+    private NotificationFactories() {}
+
+    /**
+     * Creates the factory for a notification family.
+     *
+     * @param family The family name (e.g., "URGENT", "MARKETING"), case-insensitive.
+     * @return A {@link NotificationFactory} for that family.
+     * @throws IllegalArgumentException if no provider offers the family.
+     */
+    static NotificationFactory forFamily(String family) {
+        NotificationFactoryProvider provider = FAMILIES.find(family);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown notification family " + family);
+        }
+        return provider.create();
+    }
+
+    /**
+     * Creates a plugin notification for a channel the family's factory does not
+     * support itself.
+     *
+     * @param family The family name.
+     * @param channel The channel name.
+     * @return A {@link Notification} object, or {@code null} if no plugin offers it.
+     */
+    static Notification createPluginChannel(String family, String channel) {
+        NotificationChannelProvider provider = CHANNELS.find(family + "/" + channel);
+        return provider != null ? provider.create() : null;
+    }
+
+    /**
+     * Lazily walks the providers of one service type, caching every provider
+     * it meets by its upper-cased key, so the service file is scanned at most once.
+     * If several providers share a key, the first one listed wins.
+     */
+    private static class Discovery<T> {
+        private final Class<T> service;
+        private final Function<T, String> key;
+        private final Map<String, T> found = new ConcurrentHashMap<>();
+        private Iterator<T> pending;
+
+        Discovery(Class<T> service, Function<T, String> key) {
+            this.service = service;
+            this.key = key;
+        }
+
+        T find(String name) {
+            String wanted = name.toUpperCase(Locale.ROOT);
+            T cached = found.get(wanted);
+            if (cached != null) {
+                return cached;
+            }
+
+            synchronized (this) {
+                if (pending == null) {
+                    pending = ServiceLoader.load(service).iterator();
+                }
+                while (pending.hasNext()) {
+                    T provider = pending.next();
+                    String providerKey = key.apply(provider).toUpperCase(Locale.ROOT);
+                    found.putIfAbsent(providerKey, provider);
+                    if (providerKey.equals(wanted)) {
+                        // Return the cached provider so the first registration always wins.
+                        return found.get(wanted);
+                    }
+                }
+            }
+            return found.get(wanted);
+        }
+    }
+}
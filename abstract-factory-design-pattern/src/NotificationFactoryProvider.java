@@ -0,0 +1,26 @@
+/**
+ * Service Provider Interface for plugging notification families (concrete
+ * {@link NotificationFactory} implementations) into the system.
+ *
+ * A provider is a public class with a public no-arg constructor listed in
+ * {@code META-INF/services/NotificationFactoryProvider}. Clients look families
+ * up by name through {@link NotificationFactories#forFamily(String)}, so adding
+ * a family never requires editing the client.
+ */
+public interface NotificationFactoryProvider {
+
+    /**
+     * Returns the family name this provider handles (e.g., "URGENT").
+     * Lookups compare it case-insensitively.
+     *
+     * @return The family name.
+     */
+    String family();
+
+    /**
+     * Creates the factory for this family.
+     *
+     * @return A {@link NotificationFactory} object.
+     */
+    NotificationFactory create();
+}
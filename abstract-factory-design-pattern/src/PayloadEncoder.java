@@ -0,0 +1,274 @@
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A channel-aware encoder that turns formatted notification text into the
+ * bytes a gateway actually transmits.
+ *
+ * <ul>
+ *   <li><b>SMS</b>: uses the GSM-7 default alphabet when every character fits,
+ *   otherwise falls back to UCS-2, and splits long messages into concatenated
+ *   segments.</li>
+ *   <li><b>Push</b>: UTF-8, rejected with an {@link IllegalArgumentException}
+ *   once it exceeds {@link #PUSH_PAYLOAD_LIMIT}; {@link PushNotification} logs
+ *   such a payload and does not send it.</li>
+ *   <li><b>Anything else</b> (e.g., Email): a single UTF-8 segment.</li>
+ * </ul>
+ *
+ * Characters are written directly into a reusable direct {@link ByteBuffer},
+ * so no intermediate {@code byte[]} is created per send. The returned segments
+ * are read-only views over that buffer and stay valid until the next call to
+ * {@link #encode(String, CharSequence)}. An encoder is therefore not thread-safe;
+ * use {@link #forCurrentThread()} to share one buffer per thread instead of
+ * allocating a new direct buffer for every notification.
+ */
+class PayloadEncoder {
+
+    /** Maximum push payload size in bytes (FCM and APNs both use 4 KB). */
+    static final int PUSH_PAYLOAD_LIMIT = 4096;
+
+    private static final int GSM7_SINGLE_SEGMENT = 160;
+    private static final int GSM7_CONCAT_SEGMENT = 153;
+    private static final int UCS2_SINGLE_SEGMENT = 70;
+    private static final int UCS2_CONCAT_SEGMENT = 67;
+
+    private static final byte GSM7_ESCAPE = 0x1B;
+
+    // GSM 03.38 default alphabet indexed by septet value. Position 0x1B is the
+    // escape code, so it holds a placeholder that never matches real text.
+    private static final String GSM7_BASIC =
+            "@£$¥èéùìòÇ\nØø\rÅå"
+            + "Δ_ΦΓΛΩΠΨΣΘΞ\uFFFFÆæßÉ"
+            + " !\"#¤%&'()*+,-./"
+            + "0123456789:;<=>?"
+            + "¡ABCDEFGHIJKLMNO"
+            + "PQRSTUVWXYZÄÖÑÜ§"
+            + "¿abcdefghijklmno"
+            + "pqrstuvwxyzäöñüà";
+
+    // GSM 03.38 extension table: each character is sent as ESC + code.
+    private static final String GSM7_EXTENDED_CHARS = "\f^{}\\[~]|€";
+    private static final byte[] GSM7_EXTENDED_CODES =
+            {0x0A, 0x14, 0x28, 0x29, 0x2F, 0x3C, 0x3D, 0x3E, 0x40, 0x65};
+
+    private static final ThreadLocal<PayloadEncoder> PER_THREAD = ThreadLocal.withInitial(PayloadEncoder::new);
+
+    private final CharsetEncoder utf8 = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(512);
+
+    /**
+     * Returns the encoder owned by the calling thread. Its direct buffer is
+     * allocated once per thread and reused by every send on that thread.
+     *
+     * @return The calling thread's encoder.
+     */
+    static PayloadEncoder forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    /**
+     * Encodes a formatted message for the given channel.
+     *
+     * @param channel The channel (e.g., "SMS", "Push", "Email"), case-insensitive.
+     * @param text The fully formatted notification text.
+     * @return The encoded payload with its segments.
+     * @throws IllegalArgumentException if a push payload exceeds {@link #PUSH_PAYLOAD_LIMIT}.
+     */
+    EncodedPayload encode(String channel, CharSequence text) {
+        if ("SMS".equalsIgnoreCase(channel)) {
+            return isGsm7(text) ? encodeGsm7(text) : encodeUcs2(text);
+        }
+        if ("PUSH".equalsIgnoreCase(channel)) {
+            return encodeUtf8(text, PUSH_PAYLOAD_LIMIT);
+        }
+        return encodeUtf8(text, Integer.MAX_VALUE);
+    }
+
+    private static boolean isGsm7(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (gsm7Septet(c) < 0 && GSM7_EXTENDED_CHARS.indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the septet for a character of the default alphabet, or -1. The
+     * placeholder at the escape position is never a match, so text containing
+     * it cannot be written as a bare escape code.
+     */
+    private static int gsm7Septet(char c) {
+        int septet = GSM7_BASIC.indexOf(c);
+        return septet == GSM7_ESCAPE ? -1 : septet;
+    }
+
+    /**
+     * Writes one unpacked septet per byte. Segment boundaries never separate an
+     * escape code from the extension character that follows it.
+     */
+    private EncodedPayload encodeGsm7(CharSequence text) {
+        ByteBuffer out = prepare(text.length() * 2);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int basic = gsm7Septet(c);
+            if (basic >= 0) {
+                out.put((byte) basic);
+            } else {
+                out.put(GSM7_ESCAPE);
+                out.put(GSM7_EXTENDED_CODES[GSM7_EXTENDED_CHARS.indexOf(c)]);
+            }
+        }
+        out.flip();
+
+        List<ByteBuffer> segments = new ArrayList<>();
+        int total = out.limit();
+        if (total <= GSM7_SINGLE_SEGMENT) {
+            segments.add(out.slice(0, total).asReadOnlyBuffer());
+        } else {
+            int start = 0;
+            while (start < total) {
+                int end = Math.min(start + GSM7_CONCAT_SEGMENT, total);
+                if (end < total && out.get(end - 1) == GSM7_ESCAPE) {
+                    end--;
+                }
+                segments.add(out.slice(start, end - start).asReadOnlyBuffer());
+                start = end;
+            }
+        }
+        return new EncodedPayload(Encoding.GSM7, segments);
+    }
+
+    /**
+     * Writes UTF-16 code units in big-endian order. Segment boundaries never
+     * separate the two halves of a surrogate pair.
+     */
+    private EncodedPayload encodeUcs2(CharSequence text) {
+        ByteBuffer out = prepare(text.length() * 2);
+        for (int i = 0; i < text.length(); i++) {
+            out.putChar(text.charAt(i));
+        }
+        out.flip();
+
+        List<ByteBuffer> segments = new ArrayList<>();
+        int units = text.length();
+        if (units <= UCS2_SINGLE_SEGMENT) {
+            segments.add(out.slice(0, units * 2).asReadOnlyBuffer());
+        } else {
+            int start = 0;
+            while (start < units) {
+                int end = Math.min(start + UCS2_CONCAT_SEGMENT, units);
+                if (end < units && Character.isHighSurrogate(text.charAt(end - 1))) {
+                    end--;
+                }
+                segments.add(out.slice(start * 2, (end - start) * 2).asReadOnlyBuffer());
+                start = end;
+            }
+        }
+        return new EncodedPayload(Encoding.UCS2, segments);
+    }
+
+    private EncodedPayload encodeUtf8(CharSequence text, int limit) {
+        // A UTF-16 code unit never needs more than 3 UTF-8 bytes.
+        long worstCase = (long) text.length() * 3;
+        ByteBuffer out = prepare((int) Math.min(worstCase, limit));
+        out.limit(Math.min(out.capacity(), limit));
+
+        utf8.reset();
+        CoderResult result = utf8.encode(CharBuffer.wrap(text), out, true);
+        if (result.isOverflow()) {
+            throw new IllegalArgumentException("Payload exceeds " + limit + " bytes");
+        }
+        if (result.isError()) {
+            throw new IllegalArgumentException("Payload is not valid UTF-16 text: " + result);
+        }
+        utf8.flush(out);
+        out.flip();
+        return new EncodedPayload(Encoding.UTF8, Collections.singletonList(out.slice().asReadOnlyBuffer()));
+    }
+
+    /**
+     * Returns the shared buffer cleared and large enough for the given size,
+     * replacing it with a bigger one only when it has to grow.
+     */
+    private ByteBuffer prepare(int bytes) {
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocateDirect(Math.max(bytes, buffer.capacity() * 2));
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * The character encodings a payload can be written in.
+     */
+    enum Encoding {
+        GSM7("septets"), UCS2("bytes"), UTF8("bytes");
+
+        private final String sizeUnit;
+
+        Encoding(String sizeUnit) {
+            this.sizeUnit = sizeUnit;
+        }
+
+        /**
+         * @return The unit {@link EncodedPayload#getSize()} is measured in.
+         */
+        public String getSizeUnit() {
+            return sizeUnit;
+        }
+    }
+}
+
+/**
+ * The result of {@link PayloadEncoder#encode(String, CharSequence)}: the
+ * encoding that was chosen and the segments to transmit, in order. The segment
+ * count is known before anything is sent, so the cost of a message can be
+ * checked up front.
+ */
+class EncodedPayload {
+    private final PayloadEncoder.Encoding encoding;
+    private final List<ByteBuffer> segments;
+
+    EncodedPayload(PayloadEncoder.Encoding encoding, List<ByteBuffer> segments) {
+        this.encoding = encoding;
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    public PayloadEncoder.Encoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * @return The segments as read-only buffers, valid until the encoder is reused.
+     */
+    public List<ByteBuffer> getSegments() {
+        return segments;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Returns the total encoded size across all segments, in the encoding's
+     * {@linkplain PayloadEncoder.Encoding#getSizeUnit() unit}: septets for GSM-7
+     * (written unpacked, one per byte), bytes otherwise.
+     *
+     * @return The total encoded size.
+     */
+    public int getSize() {
+        int size = 0;
+        for (ByteBuffer segment : segments) {
+            size += segment.remaining();
+        }
+        return size;
+    }
+}
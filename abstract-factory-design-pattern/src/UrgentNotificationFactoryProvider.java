@@ -0,0 +1,16 @@
+/**
+ * Registers the urgent family ({@link UrgentNotificationFactory}) under the
+ * name "URGENT".
+ */
+public class UrgentNotificationFactoryProvider implements NotificationFactoryProvider {
+
+    @Override
+    public String family() {
+        return "URGENT";
+    }
+
+    @Override
+    public NotificationFactory create() {
+        return new UrgentNotificationFactory();
+    }
+}
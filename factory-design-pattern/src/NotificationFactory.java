@@ -1,3 +1,10 @@
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * This class implements the Factory Method pattern. It provides a static
  * method, {@code createNotification()}, that acts as a factory for creating
@@ -13,9 +20,32 @@
  * notification (e.g., "SMS", "EMAIL", "PUSH") as an argument. The factory
  * method will return an appropriate concrete implementation of the
  * {@link Notification} interface, or {@code null} if the type is unknown.
+ *
+ * Channels beyond the built-in ones are plugged in through a
+ * {@link NotificationProvider} listed in
+ * {@code META-INF/services/NotificationProvider}. Those providers are
+ * discovered with {@link ServiceLoader} only when a channel is requested that
+ * the factory does not already know, so unused plugins are never loaded.
  */
 class NotificationFactory {
 
+    /**
+     * Built-in channels. Lambdas are used instead of constructor references on
+     * purpose: a lambda body is only linked when it runs, so a concrete
+     * notification class is not loaded until its channel is actually requested.
+     */
+    private static final Map<String, Supplier<Notification>> BUILT_IN_CHANNELS = Map.of(
+            "SMS", () -> new SMSNotification(),
+            "EMAIL", () -> new EmailNotification(),
+            "PUSH", () -> new PushNotification()
+    );
+
+    // Providers discovered so far, keyed by their upper-cased channel name.
+    private final Map<String, NotificationProvider> pluginChannels = new ConcurrentHashMap<>();
+
+    // Lazy ServiceLoader iterator; each provider is instantiated only when reached.
+    private Iterator<NotificationProvider> discovery;
+
     /**
      * Creates a {@link Notification} object based on the specified channel.
      *
@@ -30,17 +60,52 @@ class NotificationFactory {
         if (channel == null || channel.isEmpty()) {
             return null;
         }
-        switch (channel.toUpperCase()) {
-            case "SMS":
-                return new SMSNotification();
-            case "EMAIL":
-                return new EmailNotification();
-            case "PUSH":
-                return new PushNotification();
-            default:
-                // If the type is not recognized, throw an exception to indicate
-                // an invalid selection.
-                throw new IllegalArgumentException("Unknown channel " + channel);
+
+        String key = channel.toUpperCase(Locale.ROOT);
+
+        Supplier<Notification> builtIn = BUILT_IN_CHANNELS.get(key);
+        if (builtIn != null) {
+            return builtIn.get();
+        }
+
+        NotificationProvider provider = findProvider(key);
+        if (provider != null) {
+            return provider.create();
+        }
+
+        // If the type is not recognized, throw an exception to indicate
+        // an invalid selection.
+        throw new IllegalArgumentException("Unknown channel " + channel);
+    }
+
+    /**
+     * Looks up a plugin channel, resuming {@link ServiceLoader} discovery only
+     * as far as needed to find it. Every provider met on the way is cached, so
+     * the service file is scanned at most once over the factory's lifetime. If
+     * several providers claim the same channel, the first one listed wins.
+     *
+     * @param key The upper-cased channel name.
+     * @return The matching provider, or {@code null} if no plugin offers it.
+     */
+    private NotificationProvider findProvider(String key) {
+        NotificationProvider cached = pluginChannels.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (this) {
+            if (discovery == null) {
+                discovery = ServiceLoader.load(NotificationProvider.class).iterator();
+            }
+            while (discovery.hasNext()) {
+                NotificationProvider provider = discovery.next();
+                pluginChannels.putIfAbsent(provider.channel().toUpperCase(Locale.ROOT), provider);
+                if (provider.channel().equalsIgnoreCase(key)) {
+                    // Return the cached provider so the first registration always wins.
+                    return pluginChannels.get(key);
+                }
+            }
         }
+        return pluginChannels.get(key);
     }
-}
\ No newline at end of file
+}
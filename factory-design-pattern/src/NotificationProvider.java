@@ -0,0 +1,30 @@
+/**
+ * Service Provider Interface for plugging additional notification channels
+ * into the {@link NotificationFactory}.
+ *
+ * A plugin implements this interface in a public class with a public no-arg
+ * constructor and lists that class in
+ * {@code META-INF/services/NotificationProvider}. The factory discovers it
+ * through {@link java.util.ServiceLoader} the first time its channel is
+ * requested, so adding a channel never requires editing the factory.
+ *
+ * Implementations should keep construction cheap and defer loading the
+ * actual gateway classes until {@link #create()} is called.
+ */
+public interface NotificationProvider {
+
+    /**
+     * Returns the channel name this provider handles (e.g., "SLACK").
+     * The factory compares it case-insensitively.
+     *
+     * @return The channel name.
+     */
+    String channel();
+
+    /**
+     * Creates a new notification for this provider's channel.
+     *
+     * @return A {@link Notification} object.
+     */
+    Notification create();
+}
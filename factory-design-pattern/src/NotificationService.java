@@ -38,8 +38,14 @@ public class NotificationService {
             pushNotifier.send("You have a new message.");
         }
 
-        // Example of handling an unknown channel.
+        // A plugin channel, discovered through ServiceLoader on first use, and an
+        // unknown channel. Both throw IllegalArgumentException when no built-in
+        // or plugin channel matches (e.g. if META-INF/services is not on the
+        // classpath).
         try {
+            Notification slackNotifier = factory.createNotification("SLACK");
+            slackNotifier.send("Deployment finished successfully.");
+
             Notification unknownNotifier = factory.createNotification("FAX");
             if (unknownNotifier != null) {
                 unknownNotifier.send("This will not be sent.");
@@ -0,0 +1,32 @@
+/**
+ * Example plugin channel registered through
+ * {@code META-INF/services/NotificationProvider}. It shows how a new channel
+ * is added to the {@link NotificationFactory} without touching the factory.
+ */
+public class SlackNotificationProvider implements NotificationProvider {
+
+    @Override
+    public String channel() {
+        return "SLACK";
+    }
+
+    @Override
+    public Notification create() {
+        return new SlackNotification();
+    }
+}
+
+/**
+ * A concrete implementation of the {@link Notification} interface for posting
+ * messages to a Slack channel. It is only loaded when the "SLACK" channel is
+ * requested from the factory.
+ */
+class SlackNotification implements Notification {
+
+    @Override
+    public void send(String message) {
+        System.out.println("💬 Sending Slack Message: " + message);
+        // In a real application, this would post to a Slack incoming webhook
+        // or use the Slack Web API with a bot token.
+    }
+}
@@ -1,5 +1,12 @@
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Observer interface - defines the contract for any subscriber.
@@ -9,6 +16,16 @@ interface Subscriber {
      * This method is called to notify the subscriber about an update.
      */
     void update();
+
+    /**
+     * This method is called once per publish when several followed channels are
+     * updated together (see {@link ChannelGroup}). By default it falls back to a
+     * single {@link #update()}.
+     * @param channels the updated channels this subscriber follows, without duplicates
+     */
+    default void update(List<? extends Channel> channels) {
+        update();
+    }
 }
 
 /**
@@ -31,6 +48,12 @@ interface Channel {
      * Notifies all registered subscribers about an update.
      */
     void notifySubscribers();
+
+    /**
+     * Provides the latest update of the channel for subscribers.
+     * @return a description of the channel's latest update
+     */
+    String getVideoInformation();
 }
 
 /**
@@ -41,6 +64,8 @@ class ChannelImpl implements Channel {
     private final String channelName;  // Name of the channel
     private String latestVideo;        // Title of the latest uploaded video
     private final List<Subscriber> subscribers;  // List of all registered subscribers
+    private ChannelGroup group;        // Group this channel is registered in, if any
+    private String groupPath;          // Path of this channel within its group
 
     /**
      * Constructor to initialize the channel with a name.
@@ -70,10 +95,16 @@ class ChannelImpl implements Channel {
     }
 
     /**
-     * Notifies all subscribers about the latest video.
+     * Notifies all subscribers about the latest video. A channel registered in a
+     * {@link ChannelGroup} lets the group deliver, so subscribers of matching
+     * group patterns are notified as well.
      */
     @Override
     public void notifySubscribers() {
+        if (group != null) {
+            group.notifySubscribers(groupPath, this);
+            return;
+        }
         for (Subscriber subscriber : subscribers) {
             subscriber.update();
         }
@@ -84,15 +115,47 @@ class ChannelImpl implements Channel {
      * @param videoTitle title of the uploaded video
      */
     public void uploadVideo(String videoTitle) {
+        setLatestVideo(videoTitle);
+        notifySubscribers();
+    }
+
+    /**
+     * Records a new video without notifying anyone. Used by {@link ChannelGroup},
+     * which notifies the subscribers of all matching channels in one batch.
+     * @param videoTitle title of the uploaded video
+     */
+    void setLatestVideo(String videoTitle) {
         this.latestVideo = videoTitle;
         System.out.println("\n[Channel] New video uploaded: " + videoTitle);
-        notifySubscribers();
+    }
+
+    /**
+     * Links this channel to the group it is registered in. A channel belongs to
+     * at most one group, so it cannot be moved silently.
+     * @param group the group
+     * @param path the channel's path within the group
+     * @throws IllegalStateException if the channel already belongs to a group
+     */
+    void joinGroup(ChannelGroup group, String path) {
+        if (this.group != null) {
+            throw new IllegalStateException("Channel \"" + channelName + "\" is already registered under " + groupPath);
+        }
+        this.group = group;
+        this.groupPath = path;
+    }
+
+    /**
+     * @return a read-only view of the subscribers registered directly on this channel
+     */
+    List<Subscriber> getSubscribers() {
+        return Collections.unmodifiableList(subscribers);
     }
 
     /**
      * Provides the latest video information for subscribers.
      * @return a string containing the latest video title and channel name
      */
+    @Override
     public String getVideoInformation() {
         return "Latest video on \"" + channelName + "\": " + latestVideo;
     }
@@ -124,6 +187,164 @@ class SubscriberImpl implements Subscriber {
     public void update() {
         System.out.println("[Notification] " + name + " has been notified: " + channel.getVideoInformation());
     }
+
+    /**
+     * Called once when several followed channels upload at the same time.
+     */
+    @Override
+    public void update(List<? extends Channel> channels) {
+        System.out.println("[Notification] " + name + " has been notified about " + channels.size() + " channel(s):");
+        for (Channel updated : channels) {
+            System.out.println("    - " + updated.getVideoInformation());
+        }
+    }
+}
+
+/**
+ * Groups channels under hierarchical paths (e.g. "tech/java", "tech/cloud") and
+ * keeps a shared index of subscribers registered on whole groups.
+ *
+ * A pattern is either an exact path or a prefix ending in "/*", which matches
+ * every channel below that prefix (e.g. "tech/*"). Subscribing to a pattern is a
+ * single registration, no matter how many channels it covers now or later.
+ *
+ * Exact paths and wildcard prefixes are indexed separately, so finding the group
+ * subscribers of a channel takes one lookup per level of its path.
+ */
+class ChannelGroup {
+    private final Map<String, ChannelImpl> channels = new LinkedHashMap<>();         // path -> channel
+    private final Map<String, Set<Subscriber>> pathSubscribers = new HashMap<>();    // "tech/java" -> subscribers
+    private final Map<String, Set<Subscriber>> prefixSubscribers = new HashMap<>();  // "tech" (from "tech/*") -> subscribers
+
+    /**
+     * Registers a channel under the given path. From then on, every upload to the
+     * channel also reaches the subscribers of matching group patterns.
+     * @param path hierarchical path of the channel, e.g. "tech/java"
+     * @param channel the channel to register
+     * @return the registered channel, for convenience
+     * @throws IllegalArgumentException if another channel is already registered under the path
+     * @throws IllegalStateException if the channel already belongs to a group
+     */
+    public ChannelImpl register(String path, ChannelImpl channel) {
+        if (channels.containsKey(path)) {
+            throw new IllegalArgumentException("A channel is already registered under " + path);
+        }
+        channel.joinGroup(this, path);
+        channels.put(path, channel);
+        return channel;
+    }
+
+    /**
+     * Subscribes to every channel matching the pattern.
+     * @param pattern an exact path or a prefix ending in "/*"
+     * @param subscriber the subscriber to be added
+     */
+    public void subscribe(String pattern, Subscriber subscriber) {
+        indexFor(pattern).computeIfAbsent(indexKey(pattern), key -> new LinkedHashSet<>()).add(subscriber);
+    }
+
+    /**
+     * Removes a subscription previously made with {@link #subscribe(String, Subscriber)}.
+     * @param pattern the pattern used when subscribing
+     * @param subscriber the subscriber to be removed
+     */
+    public void unsubscribe(String pattern, Subscriber subscriber) {
+        Map<String, Set<Subscriber>> index = indexFor(pattern);
+        String key = indexKey(pattern);
+        Set<Subscriber> subscribers = index.get(key);
+        if (subscribers != null) {
+            subscribers.remove(subscriber);
+            if (subscribers.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Uploads the same video to every channel matching the pattern. The merged
+     * subscriber set is resolved once, and each subscriber receives a single
+     * batched {@link Subscriber#update(List)} covering all of its matching channels,
+     * whether it subscribed to a channel directly, to a group, or both.
+     * @param pattern an exact path or a prefix ending in "/*"
+     * @param videoTitle title of the uploaded video
+     */
+    public void uploadVideo(String pattern, String videoTitle) {
+        Map<Subscriber, Set<ChannelImpl>> batches = new LinkedHashMap<>();
+
+        for (Map.Entry<String, ChannelImpl> entry : channels.entrySet()) {
+            if (matches(pattern, entry.getKey())) {
+                entry.getValue().setLatestVideo(videoTitle);
+                collect(entry.getKey(), entry.getValue(), batches);
+            }
+        }
+        deliver(batches);
+    }
+
+    /**
+     * Notifies the direct and group subscribers of a single registered channel,
+     * each of them once. Called by {@link ChannelImpl#notifySubscribers()}.
+     * @param path the channel's path
+     * @param channel the channel that was updated
+     */
+    void notifySubscribers(String path, ChannelImpl channel) {
+        Map<Subscriber, Set<ChannelImpl>> batches = new LinkedHashMap<>();
+        collect(path, channel, batches);
+        deliver(batches);
+    }
+
+    /**
+     * Adds the channel to the batch of every subscriber that follows it: directly,
+     * by exact path, or through a wildcard on any of its ancestors
+     * ("tech/java/jdk" is covered by "tech/java/*" and "tech/*").
+     */
+    private void collect(String path, ChannelImpl channel, Map<Subscriber, Set<ChannelImpl>> batches) {
+        addAll(channel.getSubscribers(), channel, batches);
+        addAll(pathSubscribers.get(path), channel, batches);
+        for (int slash = path.lastIndexOf('/'); slash > 0; slash = path.lastIndexOf('/', slash - 1)) {
+            addAll(prefixSubscribers.get(path.substring(0, slash)), channel, batches);
+        }
+    }
+
+    private static void addAll(Iterable<Subscriber> subscribers, ChannelImpl channel,
+                               Map<Subscriber, Set<ChannelImpl>> batches) {
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            batches.computeIfAbsent(subscriber, key -> new LinkedHashSet<>()).add(channel);
+        }
+    }
+
+    private static void deliver(Map<Subscriber, Set<ChannelImpl>> batches) {
+        for (Map.Entry<Subscriber, Set<ChannelImpl>> batch : batches.entrySet()) {
+            batch.getKey().update(new ArrayList<>(batch.getValue()));
+        }
+    }
+
+    private Map<String, Set<Subscriber>> indexFor(String pattern) {
+        return isWildcard(pattern) ? prefixSubscribers : pathSubscribers;
+    }
+
+    private static String indexKey(String pattern) {
+        return isWildcard(pattern) ? pattern.substring(0, pattern.length() - 2) : pattern;
+    }
+
+    private static boolean isWildcard(String pattern) {
+        return pattern.endsWith("/*");
+    }
+
+    /**
+     * Checks whether a channel path matches a pattern.
+     * @param pattern an exact path or a prefix ending in "/*"
+     * @param path the channel path
+     * @return true if the path is covered by the pattern
+     */
+    static boolean matches(String pattern, String path) {
+        if (isWildcard(pattern)) {
+            return path.startsWith(pattern.substring(0, pattern.length() - 1));
+        }
+        return pattern.equals(path);
+    }
 }
 
 /**
@@ -145,5 +366,38 @@ public class Main {
         // Unsubscribing one user and uploading another video
         techChannel.unsubscribe(bob);
         techChannel.uploadVideo("Advanced Java Multithreading");
+
+        // Grouping channels under hierarchical paths
+        ChannelGroup group = new ChannelGroup();
+        ChannelImpl javaChannel = group.register("tech/java", new ChannelImpl("Java Daily"));
+        ChannelImpl cloudChannel = group.register("tech/cloud", new ChannelImpl("Cloud Weekly"));
+        group.register("music/jazz", new ChannelImpl("Jazz Corner"));
+
+        // Dave follows one channel directly and the whole "tech" group,
+        // Erin follows only the cloud channel
+        SubscriberImpl dave = new SubscriberImpl("Dave", javaChannel);
+        group.subscribe("tech/*", dave);
+        SubscriberImpl erin = new SubscriberImpl("Erin", cloudChannel);
+
+        // One publish to the group: Dave gets a single batched update for both channels
+        group.uploadVideo("tech/*", "Observer Pattern at Scale");
+
+        // Uploading to a single registered channel still reaches group subscribers:
+        // Dave is notified once, even though he follows "Java Daily" twice
+        javaChannel.uploadVideo("Records and Sealed Classes");
+
+        // Sharding subscribers across worker processes on the same host.
+        // Start each worker with `java SubscriberWorker <socket-path>` and pass
+        // the socket paths as arguments to this program.
+        List<RemoteSubscriber> workers = new ArrayList<>();
+        for (String socketPath : args) {
+            workers.add(new RemoteSubscriber(techChannel, Path.of(socketPath), 1024));
+        }
+        if (!workers.isEmpty()) {
+            techChannel.uploadVideo("Observer Pattern Across Processes");
+            for (RemoteSubscriber worker : workers) {
+                worker.close();
+            }
+        }
     }
 }
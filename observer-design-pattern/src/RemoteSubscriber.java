@@ -0,0 +1,252 @@
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adapter that lets a subscriber running in another process on the same host
+ * follow a channel. Events are streamed over a Unix domain socket to a
+ * {@link SubscriberWorker}, so subscribers can be sharded across several JVMs.
+ *
+ * <p>Frame format (big-endian): {@code [long offset][int length][length bytes of UTF-8]}.
+ * When a connection is opened, the publisher first sends its {@code long} epoch,
+ * a random ID chosen once per publisher run, and the worker answers with the
+ * {@code long} offset it expects next. Delivery resumes from there. A worker
+ * that sees a new epoch starts again at offset 0, because offsets from an
+ * earlier publisher run mean nothing to the new one.</p>
+ *
+ * <p>The publisher never blocks on a worker: {@link #update()} only appends the
+ * event to a bounded replay window and returns. A dedicated sender thread per
+ * connection writes batches of frames, reconnects when the worker goes away,
+ * and resumes from the worker's offset. If a worker falls behind by more than
+ * the window, its oldest events are dropped. Events too large for one frame are
+ * dropped and logged rather than thrown into the channel's notify loop. The first
+ * failure of each outage is logged, and {@link #close()} reports how many events
+ * were never written to the worker.</p>
+ */
+class RemoteSubscriber implements Subscriber, Closeable {
+    static final int HEADER_BYTES = Long.BYTES + Integer.BYTES;
+    static final int MAX_BATCH_BYTES = 64 * 1024;
+    static final int MAX_PAYLOAD_BYTES = MAX_BATCH_BYTES - HEADER_BYTES;
+
+    private static final long RECONNECT_DELAY_MILLIS = 500;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final ChannelImpl channel;
+    private final UnixDomainSocketAddress address;
+    private final long epoch = ThreadLocalRandom.current().nextLong();  // identifies this publisher run
+
+    // Replay window: the event with offset N lives at index N % window.length.
+    // Offsets in [firstOffset, nextOffset) are available. Guarded by "this".
+    private final byte[][] window;
+    private long firstOffset;
+    private long nextOffset;
+    private long sendOffset;  // next offset to write on the current connection
+    private boolean closed;
+
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(MAX_BATCH_BYTES);  // sender thread only
+    private boolean unreachable;  // sender thread only: inside an outage that was already logged
+    private final Thread sender;
+
+    /**
+     * Creates the adapter, subscribes it to the channel and starts delivering to
+     * the worker listening on the given socket.
+     * @param channel the channel to follow
+     * @param socketPath path of the worker's Unix domain socket
+     * @param windowSize number of recent events kept for a slow or reconnecting worker
+     */
+    public RemoteSubscriber(ChannelImpl channel, Path socketPath, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        this.channel = channel;
+        this.address = UnixDomainSocketAddress.of(socketPath);
+        this.window = new byte[windowSize][];
+
+        this.sender = new Thread(this::deliver, "remote-subscriber-" + socketPath.getFileName());
+        this.sender.setDaemon(true);
+        this.sender.start();
+
+        channel.subscribe(this);
+    }
+
+    /**
+     * Queues the channel's latest video for the remote worker.
+     */
+    @Override
+    public void update() {
+        publish(channel.getVideoInformation());
+    }
+
+    /**
+     * Queues one event per updated channel; they usually go out in the same batch.
+     */
+    @Override
+    public void update(List<? extends Channel> channels) {
+        for (Channel updated : channels) {
+            publish(updated.getVideoInformation());
+        }
+    }
+
+    /**
+     * Stops accepting events, then waits a bounded time for the queued ones to
+     * be written before the sender thread exits. Events still unwritten after
+     * that are discarded and their number is logged.
+     */
+    @Override
+    public void close() {
+        channel.unsubscribe(this);
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            sender.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            long undelivered = nextOffset - sendOffset;
+            if (undelivered > 0) {
+                System.err.println("[Remote] Closed with " + undelivered + " event(s) not delivered to " + address);
+            }
+        }
+    }
+
+    private synchronized void publish(String event) {
+        if (closed) {
+            return;
+        }
+        byte[] payload = event.getBytes(StandardCharsets.UTF_8);
+        if (payload.length > MAX_PAYLOAD_BYTES) {
+            // Throwing here would abort the channel's loop and starve the remaining subscribers.
+            System.err.println("[Remote] Dropped " + payload.length + "-byte event for " + address
+                    + " (limit " + MAX_PAYLOAD_BYTES + " bytes)");
+            return;
+        }
+        window[(int) (nextOffset % window.length)] = payload;
+        nextOffset++;
+        if (nextOffset - firstOffset > window.length) {
+            firstOffset = nextOffset - window.length;  // oldest event overwritten
+        }
+        notifyAll();
+    }
+
+    /**
+     * Sender thread loop: connect, resume from the worker's offset and stream
+     * batches until closed, reconnecting after any I/O failure.
+     */
+    private void deliver() {
+        while (true) {
+            try (SocketChannel socket = SocketChannel.open(address)) {
+                resume(handshake(socket));
+                if (unreachable) {
+                    System.err.println("[Remote] Reconnected to " + address);
+                    unreachable = false;
+                }
+                while (fillBatch()) {
+                    while (batch.hasRemaining()) {
+                        socket.write(batch);
+                    }
+                }
+                return;
+            } catch (IOException e) {
+                if (!unreachable) {
+                    // Log once per outage rather than on every retry.
+                    System.err.println("[Remote] Cannot deliver to " + address + ": " + e.getMessage()
+                            + "; retrying every " + RECONNECT_DELAY_MILLIS + " ms");
+                    unreachable = true;
+                }
+                if (!awaitReconnect()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends this publisher's epoch and reads back the offset the worker expects next.
+     */
+    private long handshake(SocketChannel socket) throws IOException {
+        ByteBuffer hello = ByteBuffer.allocate(Long.BYTES).putLong(epoch).flip();
+        while (hello.hasRemaining()) {
+            socket.write(hello);
+        }
+
+        ByteBuffer reply = ByteBuffer.allocate(Long.BYTES);
+        while (reply.hasRemaining()) {
+            if (socket.read(reply) == -1) {
+                throw new EOFException("Worker closed the connection during handshake");
+            }
+        }
+        return reply.flip().getLong();
+    }
+
+    private synchronized void resume(long workerOffset) {
+        if (workerOffset > nextOffset) {
+            // The worker should have reset on our epoch; never skip events silently.
+            System.err.println("[Remote] Worker at " + address + " expects offset " + workerOffset
+                    + " but only " + nextOffset + " event(s) were published; resending from " + firstOffset);
+            workerOffset = firstOffset;
+        }
+        if (workerOffset < firstOffset) {
+            System.err.println("[Remote] " + (firstOffset - workerOffset) + " event(s) dropped for " + address);
+        }
+        sendOffset = Math.max(workerOffset, firstOffset);
+    }
+
+    /**
+     * Waits for pending events and copies as many frames as fit into the batch.
+     * @return false once the subscriber is closed and everything has been sent
+     */
+    private synchronized boolean fillBatch() {
+        while (sendOffset == nextOffset) {
+            if (closed) {
+                return false;
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        // Events may have been overwritten while the previous batch was written.
+        sendOffset = Math.max(sendOffset, firstOffset);
+
+        batch.clear();
+        while (sendOffset < nextOffset) {
+            byte[] payload = window[(int) (sendOffset % window.length)];
+            if (batch.remaining() < HEADER_BYTES + payload.length) {
+                break;
+            }
+            batch.putLong(sendOffset).putInt(payload.length).put(payload);
+            sendOffset++;
+        }
+        batch.flip();
+        return true;
+    }
+
+    /**
+     * Pauses before the next connection attempt.
+     * @return false if the subscriber was closed in the meantime
+     */
+    private synchronized boolean awaitReconnect() {
+        if (closed) {
+            return false;
+        }
+        try {
+            wait(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return !closed;
+    }
+}
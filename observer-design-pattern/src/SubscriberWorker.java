@@ -0,0 +1,158 @@
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A worker process that receives channel events from a {@link RemoteSubscriber}
+ * over a Unix domain socket and prints them.
+ *
+ * <p>Usage: {@code java SubscriberWorker <socket-path>}</p>
+ *
+ * <p>Each connection carries exactly one publisher, i.e. one {@link RemoteSubscriber},
+ * identified by the epoch it sends in the handshake. Several publishers (for
+ * example, different channels sharded to this process) can be connected at the
+ * same time: every connection is served on its own thread, and the next offset
+ * expected is kept per epoch. Publishers therefore never block or reset each
+ * other. When a publisher reconnects with the same epoch, delivery resumes
+ * without repeating events. A new publisher run has a new epoch and starts at
+ * offset 0. Only the {@value #MAX_TRACKED_PUBLISHERS} most recently seen
+ * publishers are remembered.</p>
+ */
+public class SubscriberWorker {
+    static final int MAX_TRACKED_PUBLISHERS = 1024;
+
+    private final Path socketPath;
+
+    // Resume state per publisher epoch, least recently connected first. Guarded by itself.
+    private final Map<Long, PublisherState> publishers = new LinkedHashMap<>(16, 0.75f, true);
+
+    public SubscriberWorker(Path socketPath) {
+        this.socketPath = socketPath;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: java SubscriberWorker <socket-path>");
+            return;
+        }
+        new SubscriberWorker(Path.of(args[0])).run();
+    }
+
+    /**
+     * Listens on the socket and serves each publisher connection on its own thread.
+     */
+    public void run() throws IOException {
+        Files.deleteIfExists(socketPath);
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            System.out.println("[Worker] Listening on " + socketPath);
+
+            while (true) {
+                SocketChannel publisher = server.accept();
+                new Thread(() -> serveAndClose(publisher), "worker-connection").start();
+            }
+        }
+    }
+
+    private void serveAndClose(SocketChannel publisher) {
+        try (publisher) {
+            serve(publisher);
+        } catch (IOException e) {
+            System.err.println("[Worker] Connection lost: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the publisher's epoch, sends the resume offset, then decodes frames
+     * until the publisher disconnects. Each read may carry many frames, and a
+     * frame may span several reads.
+     */
+    private void serve(SocketChannel publisher) throws IOException {
+        ByteBuffer hello = ByteBuffer.allocate(Long.BYTES);
+        while (hello.hasRemaining()) {
+            if (publisher.read(hello) == -1) {
+                throw new IOException("Publisher closed the connection during handshake");
+            }
+        }
+        PublisherState state = stateFor(hello.flip().getLong());
+
+        ByteBuffer reply = ByteBuffer.allocate(Long.BYTES).putLong(state.nextOffset()).flip();
+        while (reply.hasRemaining()) {
+            publisher.write(reply);
+        }
+
+        ByteBuffer in = ByteBuffer.allocate(RemoteSubscriber.MAX_BATCH_BYTES);
+        while (publisher.read(in) != -1) {
+            in.flip();
+            while (in.remaining() >= RemoteSubscriber.HEADER_BYTES) {
+                int length = in.getInt(in.position() + Long.BYTES);
+                if (length < 0 || length > RemoteSubscriber.MAX_PAYLOAD_BYTES) {
+                    throw new IOException("Corrupt frame length " + length);
+                }
+                if (in.remaining() < RemoteSubscriber.HEADER_BYTES + length) {
+                    break;  // wait for the rest of the frame
+                }
+                long offset = in.getLong();
+                in.getInt();
+                byte[] payload = new byte[length];
+                in.get(payload);
+                state.receive(offset, new String(payload, StandardCharsets.UTF_8));
+            }
+            in.compact();
+        }
+    }
+
+    /**
+     * Returns the resume state for a publisher epoch, creating it at offset 0 for
+     * a publisher not seen before and forgetting the least recently seen one when
+     * too many are tracked.
+     */
+    private PublisherState stateFor(long epoch) {
+        synchronized (publishers) {
+            PublisherState state = publishers.get(epoch);
+            if (state == null) {
+                state = new PublisherState();
+                publishers.put(epoch, state);
+                System.out.println("[Worker] New publisher " + Long.toHexString(epoch));
+                if (publishers.size() > MAX_TRACKED_PUBLISHERS) {
+                    Iterator<Long> eldest = publishers.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            return state;
+        }
+    }
+
+    /**
+     * Delivery progress of one publisher. Synchronized because a reconnecting
+     * publisher may briefly overlap with its previous, dying connection.
+     */
+    private static class PublisherState {
+        private long nextOffset;  // offset of the next event expected from this publisher
+
+        synchronized long nextOffset() {
+            return nextOffset;
+        }
+
+        synchronized void receive(long offset, String event) {
+            if (offset < nextOffset) {
+                return;  // already delivered before a reconnect
+            }
+            if (offset > nextOffset) {
+                System.err.println("[Worker] Missed " + (offset - nextOffset) + " event(s)");
+            }
+            System.out.println("[Worker] " + event);
+            nextOffset = offset + 1;
+        }
+    }
+}
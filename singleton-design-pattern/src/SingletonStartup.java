@@ -0,0 +1,21 @@
+/**
+ * SingletonStartup is a short-lived client used to profile startup of this module.
+ *
+ * <p> Unlike {@link Main}, it obtains every singleton implementation once, so each
+ * class (including the eagerly created {@link EagerSingleton} instance) is loaded
+ * and initialized. It then prints a single line, which startup profiling uses as
+ * the point where the client is ready. </p>
+ */
+public class SingletonStartup {
+    public static void main(String[] args) {
+        Object[] singletons = {
+                EagerSingleton.getInstance(),
+                LazySingleton.getInstance(),
+                MultithreadSingleton.getInstance(),
+                SerializableSingleton.getInstance(),
+                EnumSingleton.INSTANCE
+        };
+
+        System.out.println("Singletons ready: " + singletons.length);
+    }
+}
@@ -0,0 +1,120 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * StartupBenchmark measures how quickly a short-lived client program starts,
+ * with and without an AppCDS archive.
+ *
+ * <p> Each run launches a fresh JVM in the given working directory, which should
+ * be the one the archive was trained in, and records the time until the process
+ * exits. When a marker is given, it also records the time until the first output
+ * line containing that marker, which should be the line printed by the first
+ * notification actually sent (time-to-first-notification). Without a marker,
+ * only the exit time is reported. The two variants alternate run by run, so
+ * drift in machine load or file cache affects both alike. One warm-up run per
+ * variant is discarded, and the median of the remaining runs is reported. </p>
+ *
+ * <p> The archived variant runs with {@code -Xshare:on}, so a missing, stale or
+ * mismatched archive fails the run instead of silently falling back to the
+ * baseline. </p>
+ *
+ * <p> Usage: {@code java StartupBenchmark <runs> <work-dir> <archive.jsa> <app.jar> <main-class> [marker]} </p>
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5 || args.length > 6) {
+            System.err.println("Usage: java StartupBenchmark <runs> <work-dir> <archive.jsa> <app.jar> <main-class> [marker]");
+            System.exit(1);
+        }
+        int runs = Integer.parseInt(args[0]);
+        File workDir = new File(args[1]);
+        String archive = args[2];
+        String jar = args[3];
+        String mainClass = args[4];
+        String marker = args.length == 6 && !args[5].isEmpty() ? args[5] : null;
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> baseline = List.of(java, "-cp", jar, mainClass);
+        List<String> archived = List.of(java, "-Xshare:on", "-XX:SharedArchiveFile=" + archive,
+                "-cp", jar, mainClass);
+
+        long[][] withoutArchive = new long[2][runs];
+        long[][] withArchive = new long[2][runs];
+        for (int i = -1; i < runs; i++) {
+            // Run -1 is the warm-up of each variant and is discarded.
+            record(runOnce(baseline, workDir, marker), withoutArchive, i);
+            record(runOnce(archived, workDir, marker), withArchive, i);
+        }
+
+        report("without archive:", marker, withoutArchive);
+        report("with archive:", marker, withArchive);
+
+        int metric = marker != null ? 0 : 1;
+        double without = median(withoutArchive[metric]);
+        double with = median(withArchive[metric]);
+        System.out.printf("%-22s %.1f%% (%s)%n", "time saved:", 100 * (without - with) / without,
+                marker != null ? "first notification" : "exit");
+    }
+
+    private static void report(String label, String marker, long[][] samples) {
+        String first = marker != null ? String.format("%7.1f ms", median(samples[0])) : "      n/a";
+        System.out.printf("%-22s first notification %s   exit %7.1f ms%n", label, first, median(samples[1]));
+    }
+
+    /**
+     * Stores one run's sample: nanoseconds to the marker line in {@code samples[0]},
+     * and nanoseconds to exit in {@code samples[1]}. Negative runs are warm-ups.
+     */
+    private static void record(long[] sample, long[][] samples, int run) {
+        if (run >= 0) {
+            samples[0][run] = sample[0];
+            samples[1][run] = sample[1];
+        }
+    }
+
+    private static long[] runOnce(List<String> command, File workDir, String marker)
+            throws IOException, InterruptedException {
+        ProcessBuilder builder = new ProcessBuilder(command).directory(workDir).redirectErrorStream(true);
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        long firstNotification = -1;
+        List<String> output = new ArrayList<>();
+        // Read every line so the child never blocks on a full pipe.
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (firstNotification < 0 && marker != null && line.contains(marker)) {
+                    firstNotification = System.nanoTime() - start;
+                }
+                output.add(line);
+            }
+        }
+        int status = process.waitFor();
+        long exit = System.nanoTime() - start;
+
+        if (status != 0) {
+            throw new IllegalStateException("Command failed with exit code " + status + ": " + command
+                    + System.lineSeparator() + String.join(System.lineSeparator(), output));
+        }
+        if (marker != null && firstNotification < 0) {
+            throw new IllegalStateException("Marker \"" + marker + "\" never printed by " + command);
+        }
+        return new long[] {firstNotification, exit};
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        double value = sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+        return value / 1_000_000.0;
+    }
+}
@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+#
+# Startup profile for the factory, abstract factory and singleton modules.
+#
+#   1. Compiles each module and packages it as a jar (CDS only archives classes
+#      loaded from jars, not from class directories).
+#   2. Training run: runs each client once with -XX:ArchiveClassesAtExit, which
+#      writes a dynamic AppCDS archive of every class it loaded.
+#   3. Runs StartupBenchmark to compare time-to-first-notification (the first
+#      output line containing the target's marker) and time to exit, with and
+#      without that archive. Both variants alternate run by run and run in the
+#      same directory as the training run. The singleton module sends no
+#      notification; its SingletonStartup client initializes every singleton
+#      (Main only touches LazySingleton) and its "ready" line is the marker.
+#
+# Usage: ./startup-profile/run.sh [runs]        (default: 10 runs per variant)
+#
+# Everything is written to startup-profile/out/. Archives are tied to the JDK
+# that created them, so rerun this after switching JDKs.
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+OUT="$ROOT/startup-profile/out"
+RUNS="${1:-10}"
+
+# <module directory>|<main class>|<marker printed by the first notification sent>
+TARGETS=(
+    "factory-design-pattern|NotificationService|Sending Email"
+    "abstract-factory-design-pattern|AlertService|Sending SMS"
+    "singleton-design-pattern|SingletonStartup|Singletons ready"
+)
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+javac -encoding UTF-8 -d "$OUT/benchmark" "$ROOT/startup-profile/StartupBenchmark.java"
+
+for target in "${TARGETS[@]}"; do
+    IFS='|' read -r module main marker <<< "$target"
+    classes="$OUT/$module/classes"
+    jar="$OUT/$module/$module.jar"
+    archive="$OUT/$module/$module.jsa"
+
+    echo "=== $module ($main)"
+
+    javac -encoding UTF-8 -d "$classes" "$ROOT/$module"/src/*.java
+    # Service files (e.g. META-INF/services) live next to the sources.
+    if [ -d "$ROOT/$module/src/META-INF" ]; then
+        cp -r "$ROOT/$module/src/META-INF" "$classes/"
+    fi
+    jar --create --file "$jar" -C "$classes" .
+
+    # Training and measured runs all start in the module's output directory, so
+    # they see the same files and anything the client writes stays there.
+    workdir="$OUT/$module"
+    (cd "$workdir" && java -XX:ArchiveClassesAtExit="$archive" -cp "$jar" "$main" > training.log 2>&1)
+
+    java -cp "$OUT/benchmark" StartupBenchmark "$RUNS" "$workdir" "$archive" "$jar" "$main" "$marker"
+    echo
+done